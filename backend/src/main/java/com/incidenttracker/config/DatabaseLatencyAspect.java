@@ -0,0 +1,37 @@
+package com.incidenttracker.config;
+
+import com.incidenttracker.service.AdaptiveConcurrencyLimiter;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Times repository calls made while serving HTTP requests and feeds them to
+ * {@link AdaptiveConcurrencyLimiter} as its load signal. Background work such
+ * as the active index reconcile is not counted.
+ */
+@Aspect
+@Component
+public class DatabaseLatencyAspect {
+
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    public DatabaseLatencyAspect(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    @Around("execution(* com.incidenttracker.repository..*(..))")
+    public Object timeRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (RequestContextHolder.getRequestAttributes() == null) {
+            return joinPoint.proceed();
+        }
+        long startedAt = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            concurrencyLimiter.recordDatabaseLatency(System.nanoTime() - startedAt);
+        }
+    }
+}
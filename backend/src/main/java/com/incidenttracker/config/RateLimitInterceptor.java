@@ -0,0 +1,165 @@
+package com.incidenttracker.config;
+
+import com.incidenttracker.exception.TooManyRequestsException;
+import com.incidenttracker.service.AdaptiveConcurrencyLimiter;
+import com.incidenttracker.service.ClientRateLimiter;
+import com.incidenttracker.service.IncidentService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Applies per-client token buckets and adaptive concurrency limiting to the
+ * incidents API. Requests are weighted by cost: searches are the most
+ * expensive, by-id lookups the cheapest. Clients are keyed by API key only
+ * when the key is one of {@code rate-limit.api-keys}; everyone else is keyed
+ * by remote address. List views served from the in-memory active index do
+ * not touch the database, so they skip the concurrency gate.
+ */
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String API_KEY_HEADER = "X-API-Key";
+    private static final String SLOT_HELD_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".slotHeld";
+
+    private final ClientRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final boolean enabled;
+    private final Set<String> apiKeys;
+    private final int byIdCost;
+    private final int listCost;
+    private final int searchCost;
+    private final int writeCost;
+
+    private final Counter admitted;
+    private final Counter rejectedRate;
+    private final Counter rejectedConcurrency;
+
+    public RateLimitInterceptor(
+            ClientRateLimiter rateLimiter,
+            AdaptiveConcurrencyLimiter concurrencyLimiter,
+            MeterRegistry meterRegistry,
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.api-keys:}") String[] apiKeys,
+            @Value("${rate-limit.cost.by-id:1}") int byIdCost,
+            @Value("${rate-limit.cost.list:2}") int listCost,
+            @Value("${rate-limit.cost.search:5}") int searchCost,
+            @Value("${rate-limit.cost.write:2}") int writeCost
+    ) {
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.enabled = enabled;
+        this.apiKeys = Arrays.stream(apiKeys)
+                .map(String::trim)
+                .filter(key -> !key.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.byIdCost = requireAffordable("by-id", byIdCost, rateLimiter.getCapacity());
+        this.listCost = requireAffordable("list", listCost, rateLimiter.getCapacity());
+        this.searchCost = requireAffordable("search", searchCost, rateLimiter.getCapacity());
+        this.writeCost = requireAffordable("write", writeCost, rateLimiter.getCapacity());
+
+        this.admitted = Counter.builder("incidents.ratelimit.requests")
+                .tag("outcome", "admitted")
+                .register(meterRegistry);
+        this.rejectedRate = Counter.builder("incidents.ratelimit.requests")
+                .tag("outcome", "rejected_rate")
+                .register(meterRegistry);
+        this.rejectedConcurrency = Counter.builder("incidents.ratelimit.requests")
+                .tag("outcome", "rejected_concurrency")
+                .register(meterRegistry);
+        Gauge.builder("incidents.ratelimit.concurrency.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("incidents.ratelimit.concurrency.in_flight", concurrencyLimiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled || "OPTIONS".equalsIgnoreCase(request.getMethod())) {
+            return true;
+        }
+
+        String clientKey = clientKey(request);
+        int cost = cost(request);
+        long waitNanos = rateLimiter.tryAcquire(clientKey, cost);
+        if (waitNanos > 0) {
+            rejectedRate.increment();
+            throw new TooManyRequestsException(
+                    "Rate limit exceeded", ClientRateLimiter.retryAfterSeconds(waitNanos)
+            );
+        }
+
+        if (!isActiveListView(request)) {
+            if (!concurrencyLimiter.tryAcquire()) {
+                // The request was never served, so it should not count against the client
+                rateLimiter.refund(clientKey, cost);
+                rejectedConcurrency.increment();
+                throw new TooManyRequestsException("Server is busy, please retry shortly", 1);
+            }
+            request.setAttribute(SLOT_HELD_ATTRIBUTE, Boolean.TRUE);
+        }
+
+        admitted.increment();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(SLOT_HELD_ATTRIBUTE) != null) {
+            request.removeAttribute(SLOT_HELD_ATTRIBUTE);
+            concurrencyLimiter.release();
+        }
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        // Unknown keys fall back to the address so random keys cannot mint fresh buckets
+        String apiKey = request.getHeader(API_KEY_HEADER);
+        if (apiKey != null && apiKeys.contains(apiKey)) {
+            return "key:" + apiKey;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private int cost(HttpServletRequest request) {
+        if (!"GET".equalsIgnoreCase(request.getMethod())) {
+            return writeCost;
+        }
+        if (!isListPath(request)) {
+            return byIdCost;
+        }
+        String search = request.getParameter("search");
+        return search != null && !search.isBlank() ? searchCost : listCost;
+    }
+
+    private static boolean isActiveListView(HttpServletRequest request) {
+        return "GET".equalsIgnoreCase(request.getMethod())
+                && isListPath(request)
+                && IncidentService.isActiveListView(
+                        request.getParameter("search"),
+                        request.getParameter("status"),
+                        request.getParameter("sortBy")
+                );
+    }
+
+    private static boolean isListPath(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.equals("/api/incidents") || path.equals("/api/incidents/");
+    }
+
+    private static int requireAffordable(String name, int cost, double capacity) {
+        if (cost < 1 || cost > capacity) {
+            throw new IllegalStateException("rate-limit.cost." + name + " must be between 1 and "
+                    + "rate-limit.bucket.capacity (" + capacity + "), was " + cost);
+        }
+        return cost;
+    }
+}
@@ -7,23 +7,32 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface IncidentRepository extends JpaRepository<Incident, UUID> {
 
+    @Transactional(readOnly = true)
     @Query("SELECT i FROM Incident i WHERE " +
            "(:search IS NULL OR :search = '' OR LOWER(i.title) LIKE LOWER(CONCAT('%', :search, '%')) " +
            "OR LOWER(i.owner) LIKE LOWER(CONCAT('%', :search, '%'))) " +
            "AND (:service IS NULL OR :service = '' OR i.service = :service) " +
            "AND (:severity IS NULL OR i.severity = :severity) " +
-           "AND (:status IS NULL OR i.status = :status)")
+           "AND (:status IS NULL OR i.status = :status) " +
+           "AND (:excludedStatus IS NULL OR i.status <> :excludedStatus)")
     Page<Incident> findWithFilters(
             @Param("search") String search,
             @Param("service") String service,
             @Param("severity") Incident.Severity severity,
             @Param("status") Incident.Status status,
+            @Param("excludedStatus") Incident.Status excludedStatus,
             Pageable pageable
     );
+
+    @Transactional(readOnly = true)
+    List<Incident> findByStatusIn(Collection<Incident.Status> statuses);
 }
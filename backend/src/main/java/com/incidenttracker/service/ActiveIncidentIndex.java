@@ -0,0 +1,158 @@
+package com.incidenttracker.service;
+
+import com.incidenttracker.dto.IncidentResponse;
+import com.incidenttracker.entity.Incident;
+import com.incidenttracker.repository.IncidentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory working set of unresolved (OPEN and MITIGATED) incidents.
+ *
+ * Rows are held in an {@link ActiveIncidentRows}, which answers a list
+ * request with one scan over a pre-sorted slot array. Kept current by
+ * {@link IncidentService} writes and fully rebuilt from the database on a
+ * fixed interval. Writes older than the version already held are ignored.
+ */
+@Component
+public class ActiveIncidentIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ActiveIncidentIndex.class);
+
+    private static final EnumSet<Incident.Status> ACTIVE_STATUSES =
+            EnumSet.of(Incident.Status.OPEN, Incident.Status.MITIGATED);
+
+    private final IncidentRepository incidentRepository;
+    private final boolean enabled;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private ActiveIncidentRows rows = new ActiveIncidentRows();
+    private boolean ready = false;
+    private List<IncidentResponse> writesDuringReload;
+
+    public ActiveIncidentIndex(
+            IncidentRepository incidentRepository,
+            @Value("${incidents.active-index.enabled:true}") boolean enabled
+    ) {
+        this.incidentRepository = incidentRepository;
+        this.enabled = enabled;
+    }
+
+    public static boolean isActive(Incident.Status status) {
+        return status != null && ACTIVE_STATUSES.contains(status);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    /**
+     * Rebuilds the index from the database. Writes that land while the
+     * query is running are replayed on top of the fresh snapshot.
+     * Synchronized because the startup load and the scheduled run use
+     * different threads and must not share a replay buffer.
+     */
+    @Scheduled(
+            fixedDelayString = "${incidents.active-index.reconcile-interval-ms:60000}",
+            initialDelayString = "${incidents.active-index.reconcile-interval-ms:60000}"
+    )
+    public synchronized void reconcile() {
+        if (!enabled) {
+            return;
+        }
+
+        List<IncidentResponse> replay = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            writesDuringReload = replay;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        ActiveIncidentRows fresh = new ActiveIncidentRows();
+        try {
+            for (Incident incident : incidentRepository.findByStatusIn(ACTIVE_STATUSES)) {
+                fresh.load(IncidentResponse.fromEntity(incident));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Active incident index reconcile failed; keeping previous state.", e);
+            lock.writeLock().lock();
+            try {
+                writesDuringReload = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (IncidentResponse write : replay) {
+                fresh.apply(write);
+            }
+            fresh.carryVersionsFrom(rows);
+            writesDuringReload = null;
+            rows = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Active incident index reconciled with {} incidents.", fresh.size());
+    }
+
+    /**
+     * Applies a committed write. Incidents that are no longer active are
+     * dropped, and writes older than the version already held are ignored.
+     */
+    public void apply(Incident incident) {
+        if (!enabled) {
+            return;
+        }
+        IncidentResponse response = IncidentResponse.fromEntity(incident);
+
+        lock.writeLock().lock();
+        try {
+            if (rows.apply(response) && writesDuringReload != null) {
+                writesDuringReload.add(response);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a page of active incidents ordered by createdAt, or null if the
+     * index has not been loaded yet and the caller must go to the database.
+     */
+    public Page<IncidentResponse> find(
+            String service,
+            Incident.Severity severity,
+            Incident.Status status,
+            boolean ascending,
+            Pageable pageable
+    ) {
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                return null;
+            }
+            return rows.find(service, severity, status, ascending, pageable);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.incidenttracker.service;
+
+import com.incidenttracker.dto.IncidentResponse;
+import com.incidenttracker.entity.Incident;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Dense row storage behind {@link ActiveIncidentIndex}. Filters are
+ * ordinal-keyed bitsets over row slots, and an order array keeps slots sorted
+ * by (createdAt, id) as writes happen so a query is a single scan with no
+ * sorting. Not thread-safe on its own.
+ */
+final class ActiveIncidentRows {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private IncidentResponse[] data = new IncidentResponse[INITIAL_CAPACITY];
+    private long[] createdAtKeys = new long[INITIAL_CAPACITY];
+    private long[] idMostBits = new long[INITIAL_CAPACITY];
+    private long[] idLeastBits = new long[INITIAL_CAPACITY];
+    private int[] serviceOrdinals = new int[INITIAL_CAPACITY];
+    private int[] order = new int[INITIAL_CAPACITY];
+    private int[] freeSlots = new int[16];
+    private int freeCount = 0;
+    private int highWater = 0;
+    private int size = 0;
+
+    private final Map<UUID, Integer> slotById = new HashMap<>();
+    private final BitSet[] bySeverity = newBitSets(Incident.Severity.values().length);
+    private final BitSet[] byStatus = newBitSets(Incident.Status.values().length);
+    private final Map<String, Integer> serviceOrdinalByName = new HashMap<>();
+    private final List<BitSet> byService = new ArrayList<>();
+
+    // Last seen updatedAt per id, including incidents that have left the active set
+    private final Map<UUID, Long> versionById = new HashMap<>();
+    private final Set<UUID> writtenIds = new HashSet<>();
+
+    /**
+     * Adds a row from a database snapshot.
+     */
+    void load(IncidentResponse incident) {
+        upsert(incident);
+    }
+
+    /**
+     * Applies a committed write.
+     *
+     * @return false if a newer version of the incident has already been seen
+     */
+    boolean apply(IncidentResponse incident) {
+        if (!upsert(incident)) {
+            return false;
+        }
+        writtenIds.add(incident.getId());
+        return true;
+    }
+
+    /**
+     * Copies the versions of incidents written into {@code previous} that this
+     * snapshot does not know about, so a late stale write cannot bring back an
+     * incident that was resolved before the snapshot was taken.
+     */
+    void carryVersionsFrom(ActiveIncidentRows previous) {
+        for (UUID id : previous.writtenIds) {
+            versionById.putIfAbsent(id, previous.versionById.get(id));
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    // Visible for testing: number of slots ever allocated
+    int allocatedSlots() {
+        return highWater;
+    }
+
+    Page<IncidentResponse> find(
+            String service,
+            Incident.Severity severity,
+            Incident.Status status,
+            boolean ascending,
+            Pageable pageable
+    ) {
+        BitSet serviceBits = null;
+        if (service != null && !service.isEmpty()) {
+            Integer ordinal = serviceOrdinalByName.get(service);
+            if (ordinal == null) {
+                return new PageImpl<>(List.of(), pageable, 0);
+            }
+            serviceBits = byService.get(ordinal);
+        }
+        BitSet severityBits = severity != null ? bySeverity[severity.ordinal()] : null;
+        BitSet statusBits = status != null ? byStatus[status.ordinal()] : null;
+
+        long offset = pageable.getOffset();
+        int pageSize = pageable.getPageSize();
+        List<IncidentResponse> content = new ArrayList<>(pageSize);
+        int total = 0;
+
+        for (int i = 0; i < size; i++) {
+            int slot = order[ascending ? i : size - 1 - i];
+            if ((serviceBits == null || serviceBits.get(slot))
+                    && (severityBits == null || severityBits.get(slot))
+                    && (statusBits == null || statusBits.get(slot))) {
+                if (total >= offset && content.size() < pageSize) {
+                    content.add(data[slot]);
+                }
+                total++;
+            }
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private boolean upsert(IncidentResponse incident) {
+        UUID id = incident.getId();
+        long version = epochNanos(incident.getUpdatedAt());
+        Long known = versionById.get(id);
+        if (known != null && version < known) {
+            return false;
+        }
+        versionById.put(id, version);
+
+        Integer existing = slotById.get(id);
+        if (existing != null) {
+            remove(existing);
+        }
+        if (!ActiveIncidentIndex.isActive(incident.getStatus())) {
+            return true;
+        }
+
+        int slot = allocate();
+        int serviceOrdinal = serviceOrdinal(incident.getService());
+
+        data[slot] = incident;
+        createdAtKeys[slot] = epochNanos(incident.getCreatedAt());
+        idMostBits[slot] = id.getMostSignificantBits();
+        idLeastBits[slot] = id.getLeastSignificantBits();
+        serviceOrdinals[slot] = serviceOrdinal;
+
+        bySeverity[incident.getSeverity().ordinal()].set(slot);
+        byStatus[incident.getStatus().ordinal()].set(slot);
+        byService.get(serviceOrdinal).set(slot);
+        slotById.put(id, slot);
+
+        int position = orderPosition(slot);
+        System.arraycopy(order, position, order, position + 1, size - position);
+        order[position] = slot;
+        size++;
+        return true;
+    }
+
+    private void remove(int slot) {
+        int position = orderPosition(slot);
+        System.arraycopy(order, position + 1, order, position, size - position - 1);
+        size--;
+
+        IncidentResponse incident = data[slot];
+        bySeverity[incident.getSeverity().ordinal()].clear(slot);
+        byStatus[incident.getStatus().ordinal()].clear(slot);
+        byService.get(serviceOrdinals[slot]).clear(slot);
+        slotById.remove(incident.getId());
+        data[slot] = null;
+
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    private int allocate() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (highWater == data.length) {
+            int capacity = data.length * 2;
+            data = Arrays.copyOf(data, capacity);
+            createdAtKeys = Arrays.copyOf(createdAtKeys, capacity);
+            idMostBits = Arrays.copyOf(idMostBits, capacity);
+            idLeastBits = Arrays.copyOf(idLeastBits, capacity);
+            serviceOrdinals = Arrays.copyOf(serviceOrdinals, capacity);
+            order = Arrays.copyOf(order, capacity);
+        }
+        return highWater++;
+    }
+
+    /**
+     * Index of the first entry in {@code order} that sorts at or after {@code slot}.
+     */
+    private int orderPosition(int slot) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareSlots(order[mid], slot) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // createdAt, then id as unsigned bytes to match PostgreSQL's uuid ordering
+    private int compareSlots(int a, int b) {
+        int result = Long.compare(createdAtKeys[a], createdAtKeys[b]);
+        if (result != 0) {
+            return result;
+        }
+        result = Long.compareUnsigned(idMostBits[a], idMostBits[b]);
+        return result != 0 ? result : Long.compareUnsigned(idLeastBits[a], idLeastBits[b]);
+    }
+
+    private int serviceOrdinal(String service) {
+        return serviceOrdinalByName.computeIfAbsent(service, name -> {
+            byService.add(new BitSet());
+            return byService.size() - 1;
+        });
+    }
+
+    private static long epochNanos(LocalDateTime time) {
+        if (time == null) {
+            return Long.MIN_VALUE;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + time.getNano();
+    }
+
+    private static BitSet[] newBitSets(int count) {
+        BitSet[] bitSets = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            bitSets[i] = new BitSet();
+        }
+        return bitSets;
+    }
+}
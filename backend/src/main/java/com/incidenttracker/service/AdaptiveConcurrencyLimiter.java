@@ -0,0 +1,138 @@
+package com.incidenttracker.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Caps in-flight database-bound API requests with an AIMD limit driven by
+ * database latency, as reported by {@link #recordDatabaseLatency}.
+ *
+ * A short-term latency average is compared against a long-term baseline
+ * measured from the same query mix, so one fast query finishing during a
+ * slowdown does not count as healthy. While the short-term average is above
+ * {@code tolerance} times the baseline the limit is cut by 10%, at most once
+ * per short-term latency. Otherwise each sample taken under load raises the
+ * limit by {@code 1 / limit}, about one per window of requests.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SHORT_ALPHA = 2.0 / (10 + 1);
+    private static final double LONG_ALPHA = 2.0 / (500 + 1);
+    // While latency is elevated the baseline still drifts up, slowly, so a
+    // lasting change in normal latency is eventually accepted
+    private static final double ELEVATED_LONG_ALPHA = LONG_ALPHA / 10;
+    private static final double DECREASE_FACTOR = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final long latencyFloorNanos;
+    private final LongSupplier clock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int currentLimit;
+
+    // Guarded by this
+    private double limit;
+    private double shortLatency;
+    private double longLatency;
+    private long lastDecreaseAt;
+
+    @Autowired
+    public AdaptiveConcurrencyLimiter(
+            @Value("${rate-limit.concurrency.min-limit:4}") int minLimit,
+            @Value("${rate-limit.concurrency.max-limit:64}") int maxLimit,
+            @Value("${rate-limit.concurrency.initial-limit:20}") int initialLimit,
+            @Value("${rate-limit.concurrency.latency-tolerance:2.0}") double tolerance,
+            @Value("${rate-limit.concurrency.latency-floor-ms:10}") long latencyFloorMs
+    ) {
+        this(minLimit, maxLimit, initialLimit, tolerance, latencyFloorMs, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(
+            int minLimit,
+            int maxLimit,
+            int initialLimit,
+            double tolerance,
+            long latencyFloorMs,
+            LongSupplier clock
+    ) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min-limit <= max-limit");
+        }
+        // At or below 1 the baseline itself counts as slow and the limit only ever falls
+        if (!(tolerance > 1)) {
+            throw new IllegalArgumentException(
+                    "rate-limit.concurrency.latency-tolerance must be greater than 1, was " + tolerance);
+        }
+        if (latencyFloorMs < 0) {
+            throw new IllegalArgumentException(
+                    "rate-limit.concurrency.latency-floor-ms must not be negative, was " + latencyFloorMs);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.latencyFloorNanos = TimeUnit.MILLISECONDS.toNanos(latencyFloorMs);
+        this.clock = clock;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.currentLimit = (int) limit;
+        this.lastDecreaseAt = clock.getAsLong();
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= currentLimit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public void recordDatabaseLatency(long latencyNanos) {
+        int inFlightNow = inFlight.get();
+
+        synchronized (this) {
+            if (longLatency == 0) {
+                shortLatency = latencyNanos;
+                longLatency = latencyNanos;
+            } else {
+                shortLatency += SHORT_ALPHA * (latencyNanos - shortLatency);
+            }
+
+            boolean elevated = shortLatency > longLatency * tolerance && shortLatency > latencyFloorNanos;
+            longLatency += (elevated ? ELEVATED_LONG_ALPHA : LONG_ALPHA) * (latencyNanos - longLatency);
+
+            if (elevated) {
+                long now = clock.getAsLong();
+                if (now - lastDecreaseAt >= shortLatency) {
+                    limit = Math.max(minLimit, limit * DECREASE_FACTOR);
+                    lastDecreaseAt = now;
+                }
+            } else if (inFlightNow * 2 >= currentLimit) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            currentLimit = (int) limit;
+        }
+    }
+
+    public int getLimit() {
+        return currentLimit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
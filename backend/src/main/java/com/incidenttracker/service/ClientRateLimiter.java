@@ -0,0 +1,121 @@
+package com.incidenttracker.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token buckets. Each request spends a cost in tokens; buckets
+ * refill continuously up to their capacity. Updates are CAS-based, so
+ * concurrent requests from one client never block each other.
+ */
+@Component
+public class ClientRateLimiter {
+
+    private static final long IDLE_EVICTION_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final double capacity;
+    private final double refillPerNano;
+    private final LongSupplier clock;
+    private final ConcurrentMap<String, AtomicReference<Bucket>> buckets = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ClientRateLimiter(
+            @Value("${rate-limit.bucket.capacity:40}") double capacity,
+            @Value("${rate-limit.bucket.refill-per-second:10}") double refillPerSecond
+    ) {
+        this(capacity, refillPerSecond, System::nanoTime);
+    }
+
+    ClientRateLimiter(double capacity, double refillPerSecond, LongSupplier clock) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit capacity and refill rate must be positive");
+        }
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.clock = clock;
+    }
+
+    public double getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Tries to spend {@code cost} tokens for the client.
+     *
+     * @return 0 if admitted, otherwise the nanoseconds until enough tokens are available
+     */
+    public long tryAcquire(String clientKey, int cost) {
+        if (cost > capacity) {
+            throw new IllegalArgumentException("Request cost " + cost + " exceeds bucket capacity " + capacity);
+        }
+        long now = clock.getAsLong();
+        AtomicReference<Bucket> ref = buckets.computeIfAbsent(
+                clientKey, key -> new AtomicReference<>(new Bucket(capacity, now))
+        );
+
+        while (true) {
+            Bucket current = ref.get();
+            double available = available(current, now);
+            if (available < cost) {
+                return (long) Math.ceil((cost - available) / refillPerNano);
+            }
+            if (ref.compareAndSet(current, new Bucket(available - cost, Math.max(now, current.refilledAt)))) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Returns tokens spent on a request that was rejected further down the line.
+     */
+    public void refund(String clientKey, int cost) {
+        AtomicReference<Bucket> ref = buckets.get(clientKey);
+        if (ref == null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        while (true) {
+            Bucket current = ref.get();
+            double refunded = Math.min(capacity, available(current, now) + cost);
+            if (ref.compareAndSet(current, new Bucket(refunded, Math.max(now, current.refilledAt)))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Converts a wait from {@link #tryAcquire} to a whole-second Retry-After value.
+     */
+    public static long retryAfterSeconds(long waitNanos) {
+        long oneSecond = TimeUnit.SECONDS.toNanos(1);
+        return Math.max(1, (waitNanos + oneSecond - 1) / oneSecond);
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdleBuckets() {
+        long now = clock.getAsLong();
+        buckets.values().removeIf(ref -> now - ref.get().refilledAt > IDLE_EVICTION_NANOS);
+    }
+
+    private double available(Bucket bucket, long now) {
+        return Math.min(capacity, bucket.tokens + Math.max(0, now - bucket.refilledAt) * refillPerNano);
+    }
+
+    private static final class Bucket {
+        private final double tokens;
+        private final long refilledAt;
+
+        private Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+}
@@ -12,16 +12,24 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.UUID;
 
 @Service
 public class IncidentService {
 
+    // Status filter values beyond the enum: "not resolved" (OPEN or MITIGATED) and "any status"
+    private static final String ACTIVE_STATUS_FILTER = "ACTIVE";
+    private static final String ALL_STATUS_FILTER = "ALL";
+
     private final IncidentRepository incidentRepository;
+    private final ActiveIncidentIndex activeIncidentIndex;
 
-    public IncidentService(IncidentRepository incidentRepository) {
+    public IncidentService(IncidentRepository incidentRepository, ActiveIncidentIndex activeIncidentIndex) {
         this.incidentRepository = incidentRepository;
+        this.activeIncidentIndex = activeIncidentIndex;
     }
 
     @Transactional
@@ -35,10 +43,13 @@ public class IncidentService {
         incident.setSummary(request.getSummary());
 
         Incident saved = incidentRepository.save(incident);
+        applyToIndexAfterCommit(saved);
         return IncidentResponse.fromEntity(saved);
     }
 
-    @Transactional(readOnly = true)
+    // Not transactional so the in-memory path never checks out a connection;
+    // findWithFilters is declared read-only transactional on the repository,
+    // so the page query and its COUNT still share one transaction.
     public Page<IncidentResponse> getIncidents(
             String search,
             String service,
@@ -54,24 +65,32 @@ public class IncidentService {
         if (size > 100) size = 100;
         if (page < 0) page = 0;
 
-        // Validate sortBy field
-        String validSortBy = switch (sortBy != null ? sortBy : "createdAt") {
-            case "title", "service", "severity", "status", "owner", "createdAt", "updatedAt" -> sortBy;
-            default -> "createdAt";
-        };
+        String validSortBy = validSortBy(sortBy);
 
+        // id breaks ties so rows with equal sort values keep a stable page order
         Sort sort = "asc".equalsIgnoreCase(sortDir)
-                ? Sort.by(validSortBy).ascending()
-                : Sort.by(validSortBy).descending();
+                ? Sort.by(validSortBy, "id").ascending()
+                : Sort.by(validSortBy, "id").descending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
 
         // Parse enums safely
         Incident.Severity severityEnum = parseEnum(Incident.Severity.class, severity);
-        Incident.Status statusEnum = parseEnum(Incident.Status.class, status);
+        boolean activeOnly = ACTIVE_STATUS_FILTER.equalsIgnoreCase(status);
+        Incident.Status statusEnum = parseStatus(status);
+
+        if (isActiveListView(search, status, sortBy)) {
+            Page<IncidentResponse> cached = activeIncidentIndex.find(
+                    service, severityEnum, statusEnum, "asc".equalsIgnoreCase(sortDir), pageable
+            );
+            if (cached != null) {
+                return cached;
+            }
+        }
 
         Page<Incident> incidents = incidentRepository.findWithFilters(
-                search, service, severityEnum, statusEnum, pageable
+                search, service, severityEnum, statusEnum,
+                activeOnly ? Incident.Status.RESOLVED : null, pageable
         );
 
         return incidents.map(IncidentResponse::fromEntity);
@@ -109,10 +128,45 @@ public class IncidentService {
         }
 
         Incident updated = incidentRepository.save(incident);
+        applyToIndexAfterCommit(updated);
         return IncidentResponse.fromEntity(updated);
     }
 
-    private <T extends Enum<T>> T parseEnum(Class<T> enumClass, String value) {
+    /**
+     * Whether a list request is answered from {@link ActiveIncidentIndex}:
+     * unresolved incidents, no search term, sorted by creation time.
+     */
+    public static boolean isActiveListView(String search, String status, String sortBy) {
+        return (search == null || search.isBlank())
+                && (ACTIVE_STATUS_FILTER.equalsIgnoreCase(status) || ActiveIncidentIndex.isActive(parseStatus(status)))
+                && "createdAt".equals(validSortBy(sortBy));
+    }
+
+    private static String validSortBy(String sortBy) {
+        String value = sortBy != null ? sortBy : "createdAt";
+        return switch (value) {
+            case "title", "service", "severity", "status", "owner", "createdAt", "updatedAt" -> value;
+            default -> "createdAt";
+        };
+    }
+
+    private static Incident.Status parseStatus(String status) {
+        if (ACTIVE_STATUS_FILTER.equalsIgnoreCase(status) || ALL_STATUS_FILTER.equalsIgnoreCase(status)) {
+            return null;
+        }
+        return parseEnum(Incident.Status.class, status);
+    }
+
+    private void applyToIndexAfterCommit(Incident incident) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                activeIncidentIndex.apply(incident);
+            }
+        });
+    }
+
+    private static <T extends Enum<T>> T parseEnum(Class<T> enumClass, String value) {
         if (value == null || value.isBlank()) {
             return null;
         }
@@ -0,0 +1,56 @@
+package com.incidenttracker.config;
+
+import com.incidenttracker.repository.IncidentRepository;
+import com.incidenttracker.service.AdaptiveConcurrencyLimiter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+@Import(DatabaseLatencyAspect.class)
+class DatabaseLatencyAspectTest {
+
+    @Autowired
+    private IncidentRepository incidentRepository;
+
+    @MockBean
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void recordsRepositoryCallsMadeDuringRequests() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        incidentRepository.findById(UUID.randomUUID());
+        incidentRepository.count();
+
+        verify(concurrencyLimiter, times(2)).recordDatabaseLatency(anyLong());
+    }
+
+    @Test
+    void ignoresRepositoryCallsOutsideRequests() {
+        incidentRepository.findById(UUID.randomUUID());
+
+        verifyNoInteractions(concurrencyLimiter);
+    }
+}
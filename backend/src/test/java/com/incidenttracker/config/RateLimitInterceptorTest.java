@@ -0,0 +1,146 @@
+package com.incidenttracker.config;
+
+import com.incidenttracker.exception.TooManyRequestsException;
+import com.incidenttracker.service.AdaptiveConcurrencyLimiter;
+import com.incidenttracker.service.ClientRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitInterceptorTest {
+
+    private static final Object HANDLER = new Object();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void unknownApiKeysShareTheAddressBucket() {
+        RateLimitInterceptor interceptor = interceptor(new ClientRateLimiter(2, 0.001), limiter(10));
+
+        admit(interceptor, byId("10.0.0.1", "random-1"));
+        admit(interceptor, byId("10.0.0.1", "random-2"));
+
+        assertThatThrownBy(() -> admit(interceptor, byId("10.0.0.1", "random-3")))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void knownApiKeyGetsItsOwnBucket() {
+        RateLimitInterceptor interceptor = interceptor(new ClientRateLimiter(2, 0.001), limiter(10));
+
+        admit(interceptor, byId("10.0.0.1", null));
+        admit(interceptor, byId("10.0.0.1", null));
+
+        admit(interceptor, byId("10.0.0.1", "known-key"));
+    }
+
+    @Test
+    void rateLimitedRequestGetsRetryAfter() {
+        RateLimitInterceptor interceptor = interceptor(new ClientRateLimiter(2, 1), limiter(10));
+        admit(interceptor, list("10.0.0.1"));
+
+        assertThatThrownBy(() -> admit(interceptor, list("10.0.0.1")))
+                .isInstanceOfSatisfying(TooManyRequestsException.class,
+                        ex -> assertThat(ex.getRetryAfterSeconds()).isEqualTo(2));
+    }
+
+    @Test
+    void shedRequestDoesNotSpendTokens() {
+        RateLimitInterceptor interceptor = interceptor(new ClientRateLimiter(2, 0.001), limiter(1));
+        MockHttpServletRequest inFlight = byId("10.0.0.1", null);
+        admit(interceptor, inFlight);
+
+        assertThatThrownBy(() -> admit(interceptor, list("10.0.0.2")))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessageContaining("busy");
+
+        interceptor.afterCompletion(inFlight, new MockHttpServletResponse(), HANDLER, null);
+        admit(interceptor, list("10.0.0.2"));
+    }
+
+    @Test
+    void activeListViewSkipsConcurrencyGate() {
+        AdaptiveConcurrencyLimiter concurrencyLimiter = limiter(1);
+        RateLimitInterceptor interceptor = interceptor(new ClientRateLimiter(10, 0.001), concurrencyLimiter);
+        admit(interceptor, byId("10.0.0.1", null));
+
+        MockHttpServletRequest activeView = list("10.0.0.2");
+        activeView.setParameter("status", "ACTIVE");
+        admit(interceptor, activeView);
+        interceptor.afterCompletion(activeView, new MockHttpServletResponse(), HANDLER, null);
+
+        assertThat(concurrencyLimiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void searchingActiveIncidentsStillHoldsASlot() {
+        RateLimitInterceptor interceptor = interceptor(new ClientRateLimiter(10, 0.001), limiter(1));
+        admit(interceptor, byId("10.0.0.1", null));
+
+        MockHttpServletRequest search = list("10.0.0.2");
+        search.setParameter("status", "ACTIVE");
+        search.setParameter("search", "timeout");
+
+        assertThatThrownBy(() -> admit(interceptor, search))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessageContaining("busy");
+    }
+
+    @Test
+    void costAboveCapacityFailsAtStartup() {
+        assertThatThrownBy(() -> new RateLimitInterceptor(
+                new ClientRateLimiter(4, 1), limiter(10), meterRegistry,
+                true, new String[0], 1, 2, 5, 2
+        )).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("rate-limit.cost.search");
+    }
+
+    @Test
+    void countsAdmittedAndRejectedRequests() {
+        RateLimitInterceptor interceptor = interceptor(new ClientRateLimiter(2, 0.001), limiter(10));
+        admit(interceptor, list("10.0.0.1"));
+        assertThatThrownBy(() -> admit(interceptor, byId("10.0.0.1", null)))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        assertThat(meterRegistry.counter("incidents.ratelimit.requests", "outcome", "admitted").count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.counter("incidents.ratelimit.requests", "outcome", "rejected_rate").count())
+                .isEqualTo(1);
+    }
+
+    private RateLimitInterceptor interceptor(ClientRateLimiter rateLimiter, AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        return new RateLimitInterceptor(
+                rateLimiter, concurrencyLimiter, meterRegistry,
+                true, new String[] {"known-key"}, 1, 2, 2, 2
+        );
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(int limit) {
+        return new AdaptiveConcurrencyLimiter(1, limit, limit, 2.0, 10);
+    }
+
+    private static void admit(RateLimitInterceptor interceptor, MockHttpServletRequest request) {
+        assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), HANDLER)).isTrue();
+    }
+
+    private static MockHttpServletRequest byId(String remoteAddr, String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/incidents/" + UUID.randomUUID());
+        request.setRemoteAddr(remoteAddr);
+        if (apiKey != null) {
+            request.addHeader("X-API-Key", apiKey);
+        }
+        return request;
+    }
+
+    private static MockHttpServletRequest list(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/incidents");
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
@@ -0,0 +1,94 @@
+package com.incidenttracker.service;
+
+import com.incidenttracker.dto.IncidentResponse;
+import com.incidenttracker.entity.Incident;
+import com.incidenttracker.repository.IncidentRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the default "Unresolved" list view served from the active index
+ * with the repository query it replaces (page query plus COUNT) against an
+ * in-memory H2 database. Excluded from the normal build; run with
+ * {@code mvn test -Dgroups=benchmark -DexcludedGroups=none}.
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class ActiveIncidentIndexBenchmarkTest {
+
+    private static final int INCIDENTS = 5_000;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 1_000;
+    private static final String[] SERVICES = {"Auth", "Payments", "Backend", "Frontend", "Database"};
+
+    @Autowired
+    private IncidentRepository incidentRepository;
+
+    @Test
+    void indexOutperformsRepositoryForActiveListView() {
+        Random random = new Random(42);
+        List<Incident> incidents = new ArrayList<>();
+        for (int i = 0; i < INCIDENTS; i++) {
+            incidents.add(new Incident(
+                    "Incident #" + i,
+                    SERVICES[random.nextInt(SERVICES.length)],
+                    Incident.Severity.values()[random.nextInt(4)],
+                    Incident.Status.values()[random.nextInt(3)],
+                    "owner@team.com",
+                    null
+            ));
+        }
+        incidentRepository.saveAllAndFlush(incidents);
+
+        ActiveIncidentIndex index = new ActiveIncidentIndex(incidentRepository, true);
+        index.reconcile();
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("createdAt", "id").descending());
+        Supplier<Long> repositoryPath = () -> incidentRepository.findWithFilters(
+                null, "", null, null, Incident.Status.RESOLVED, pageable
+        ).getTotalElements();
+        Supplier<Long> indexPath = () -> {
+            Page<IncidentResponse> page = index.find("", null, null, false, pageable);
+            return page.getTotalElements();
+        };
+
+        assertThat(indexPath.get()).isEqualTo(repositoryPath.get());
+
+        // The index path is orders of magnitude faster, so it gets more iterations
+        double repositoryOpsPerSecond = measure(repositoryPath, 1);
+        double indexOpsPerSecond = measure(indexPath, 100);
+
+        System.out.printf(
+                "Active list view over %d incidents: repository %.0f ops/s, index %.0f ops/s (%.1fx)%n",
+                INCIDENTS, repositoryOpsPerSecond, indexOpsPerSecond, indexOpsPerSecond / repositoryOpsPerSecond
+        );
+        assertThat(indexOpsPerSecond).isGreaterThan(repositoryOpsPerSecond);
+    }
+
+    private static double measure(Supplier<Long> path, int scale) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS * scale; i++) {
+            sink += path.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS * scale; i++) {
+            sink += path.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        assertThat(sink).isPositive();
+        return MEASURED_ITERATIONS * scale / (elapsed / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,185 @@
+package com.incidenttracker.service;
+
+import com.incidenttracker.dto.IncidentResponse;
+import com.incidenttracker.entity.Incident;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActiveIncidentRowsTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    void resolvedIncidentsAreRemovedAndTheirSlotsReused() {
+        ActiveIncidentRows rows = new ActiveIncidentRows();
+        IncidentResponse first = incident("Auth", Incident.Severity.SEV1, Incident.Status.OPEN, 1);
+        rows.apply(first);
+        rows.apply(incident("Auth", Incident.Severity.SEV2, Incident.Status.MITIGATED, 2));
+
+        rows.apply(copy(first, Incident.Status.RESOLVED, 10));
+        assertThat(rows.size()).isEqualTo(1);
+
+        rows.apply(incident("Search", Incident.Severity.SEV3, Incident.Status.OPEN, 3));
+        assertThat(rows.size()).isEqualTo(2);
+        assertThat(rows.allocatedSlots()).isEqualTo(2);
+    }
+
+    @Test
+    void resolvedIncidentIsNeverAdded() {
+        ActiveIncidentRows rows = new ActiveIncidentRows();
+        rows.load(incident("Auth", Incident.Severity.SEV1, Incident.Status.RESOLVED, 1));
+
+        assertThat(rows.size()).isZero();
+        assertThat(rows.allocatedSlots()).isZero();
+    }
+
+    @Test
+    void updateMovesIncidentBetweenFilters() {
+        ActiveIncidentRows rows = new ActiveIncidentRows();
+        IncidentResponse incident = incident("Auth", Incident.Severity.SEV1, Incident.Status.OPEN, 1);
+        rows.apply(incident);
+
+        IncidentResponse updated = copy(incident, Incident.Status.MITIGATED, 5);
+        updated.setService("Payments");
+        rows.apply(updated);
+
+        assertThat(find(rows, "Auth", null, null).getTotalElements()).isZero();
+        assertThat(find(rows, null, null, Incident.Status.OPEN).getTotalElements()).isZero();
+        assertThat(find(rows, "Payments", null, Incident.Status.MITIGATED).getContent())
+                .containsExactly(updated);
+    }
+
+    @Test
+    void filtersCombine() {
+        ActiveIncidentRows rows = new ActiveIncidentRows();
+        IncidentResponse match = incident("Auth", Incident.Severity.SEV1, Incident.Status.OPEN, 1);
+        rows.apply(match);
+        rows.apply(incident("Auth", Incident.Severity.SEV1, Incident.Status.MITIGATED, 2));
+        rows.apply(incident("Auth", Incident.Severity.SEV2, Incident.Status.OPEN, 3));
+        rows.apply(incident("Payments", Incident.Severity.SEV1, Incident.Status.OPEN, 4));
+
+        assertThat(find(rows, null, null, null).getTotalElements()).isEqualTo(4);
+        assertThat(find(rows, "Auth", null, null).getTotalElements()).isEqualTo(3);
+        assertThat(find(rows, "Auth", Incident.Severity.SEV1, null).getTotalElements()).isEqualTo(2);
+        assertThat(find(rows, "Auth", Incident.Severity.SEV1, Incident.Status.OPEN).getContent())
+                .containsExactly(match);
+        assertThat(find(rows, "Unknown", null, null).getTotalElements()).isZero();
+    }
+
+    @Test
+    void pagingPastTheEndKeepsTotal() {
+        ActiveIncidentRows rows = new ActiveIncidentRows();
+        for (int i = 0; i < 5; i++) {
+            rows.apply(incident("Auth", Incident.Severity.SEV1, Incident.Status.OPEN, i));
+        }
+
+        Page<IncidentResponse> lastPage = rows.find(null, null, null, false, PageRequest.of(1, 3));
+        assertThat(lastPage.getContent()).hasSize(2);
+        assertThat(lastPage.getTotalElements()).isEqualTo(5);
+
+        Page<IncidentResponse> pastEnd = rows.find(null, null, null, false, PageRequest.of(4, 3));
+        assertThat(pastEnd.getContent()).isEmpty();
+        assertThat(pastEnd.getTotalElements()).isEqualTo(5);
+    }
+
+    @Test
+    void ordersByCreatedAtInBothDirections() {
+        ActiveIncidentRows rows = new ActiveIncidentRows();
+        IncidentResponse oldest = incident("Auth", Incident.Severity.SEV1, Incident.Status.OPEN, 1);
+        IncidentResponse middle = incident("Auth", Incident.Severity.SEV1, Incident.Status.OPEN, 2);
+        IncidentResponse newest = incident("Auth", Incident.Severity.SEV1, Incident.Status.OPEN, 3);
+        rows.apply(middle);
+        rows.apply(newest);
+        rows.apply(oldest);
+
+        assertThat(rows.find(null, null, null, true, PageRequest.of(0, 10)).getContent())
+                .containsExactly(oldest, middle, newest);
+        assertThat(rows.find(null, null, null, false, PageRequest.of(0, 10)).getContent())
+                .containsExactly(newest, middle, oldest);
+    }
+
+    @Test
+    void equalCreatedAtIsOrderedById() {
+        ActiveIncidentRows rows = new ActiveIncidentRows();
+        IncidentResponse low = incident("Auth", Incident.Severity.SEV1, Incident.Status.OPEN, 1);
+        low.setId(UUID.fromString("00000000-0000-0000-0000-000000000001"));
+        IncidentResponse high = incident("Auth", Incident.Severity.SEV1, Incident.Status.OPEN, 1);
+        high.setId(UUID.fromString("f0000000-0000-0000-0000-000000000000"));
+        rows.apply(high);
+        rows.apply(low);
+
+        assertThat(rows.find(null, null, null, true, PageRequest.of(0, 10)).getContent())
+                .containsExactly(low, high);
+    }
+
+    @Test
+    void staleWriteDoesNotOverwriteNewerVersion() {
+        ActiveIncidentRows rows = new ActiveIncidentRows();
+        IncidentResponse opened = incident("Auth", Incident.Severity.SEV1, Incident.Status.OPEN, 1);
+        IncidentResponse resolved = copy(opened, Incident.Status.RESOLVED, 20);
+        IncidentResponse staleMitigated = copy(opened, Incident.Status.MITIGATED, 10);
+
+        rows.apply(opened);
+        rows.apply(resolved);
+
+        assertThat(rows.apply(staleMitigated)).isFalse();
+        assertThat(rows.size()).isZero();
+    }
+
+    @Test
+    void carriedVersionsBlockStaleWritesAfterReload() {
+        ActiveIncidentRows previous = new ActiveIncidentRows();
+        IncidentResponse opened = incident("Auth", Incident.Severity.SEV1, Incident.Status.OPEN, 1);
+        previous.apply(copy(opened, Incident.Status.RESOLVED, 20));
+
+        ActiveIncidentRows fresh = new ActiveIncidentRows();
+        fresh.carryVersionsFrom(previous);
+
+        assertThat(fresh.apply(copy(opened, Incident.Status.OPEN, 10))).isFalse();
+        assertThat(fresh.size()).isZero();
+    }
+
+    private static Page<IncidentResponse> find(
+            ActiveIncidentRows rows,
+            String service,
+            Incident.Severity severity,
+            Incident.Status status
+    ) {
+        return rows.find(service, severity, status, false, PageRequest.of(0, 10));
+    }
+
+    private static IncidentResponse incident(
+            String service,
+            Incident.Severity severity,
+            Incident.Status status,
+            int minute
+    ) {
+        IncidentResponse incident = new IncidentResponse();
+        incident.setId(UUID.randomUUID());
+        incident.setTitle("Incident " + minute);
+        incident.setService(service);
+        incident.setSeverity(severity);
+        incident.setStatus(status);
+        incident.setCreatedAt(BASE.plusMinutes(minute));
+        incident.setUpdatedAt(BASE.plusMinutes(minute));
+        return incident;
+    }
+
+    private static IncidentResponse copy(IncidentResponse source, Incident.Status status, int updatedMinute) {
+        IncidentResponse copy = new IncidentResponse();
+        copy.setId(source.getId());
+        copy.setTitle(source.getTitle());
+        copy.setService(source.getService());
+        copy.setSeverity(source.getSeverity());
+        copy.setStatus(status);
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setUpdatedAt(BASE.plusMinutes(updatedMinute));
+        return copy;
+    }
+}
@@ -0,0 +1,124 @@
+package com.incidenttracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(400);
+
+    private final AtomicLong now = new AtomicLong();
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 100, 10, 2.0, 10, now::get);
+
+    @Test
+    void refusesAboveLimit() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release();
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void latencyOutsideLoadDoesNotRaiseLimit() {
+        limiter.recordDatabaseLatency(FAST);
+        limiter.recordDatabaseLatency(FAST);
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void limitRisesSlowlyUnderFastCompletions() {
+        fillToLimit();
+
+        completeUnderLoad(FAST, 200);
+
+        // +1/limit per completion: roughly one step per window of requests, not one per request
+        assertThat(limiter.getLimit()).isGreaterThan(10).isLessThan(30);
+    }
+
+    @Test
+    void limitFallsUnderSlowCompletions() {
+        fillToLimit();
+        completeUnderLoad(FAST, 100);
+        int healthyLimit = limiter.getLimit();
+
+        completeUnderLoad(SLOW, 100);
+
+        assertThat(limiter.getLimit()).isLessThan(healthyLimit / 2);
+    }
+
+    @Test
+    void fastRequestsDuringSlowdownDoNotHoldLimitUp() {
+        fillToLimit();
+        completeUnderLoad(FAST, 100);
+        int healthyLimit = limiter.getLimit();
+
+        for (int i = 0; i < 50; i++) {
+            completeUnderLoad(SLOW, 2);
+            completeUnderLoad(FAST, 2);
+        }
+
+        assertThat(limiter.getLimit()).isLessThan(healthyLimit / 2);
+    }
+
+    @Test
+    void lowAbsoluteLatencyIsNotTreatedAsSlow() {
+        fillToLimit();
+        completeUnderLoad(TimeUnit.MICROSECONDS.toNanos(100), 100);
+        int limitBefore = limiter.getLimit();
+
+        // 10x the baseline, but still under the 10ms floor
+        completeUnderLoad(TimeUnit.MILLISECONDS.toNanos(1), 100);
+
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(limitBefore);
+    }
+
+    @Test
+    void limitStaysWithinBounds() {
+        fillToLimit();
+        completeUnderLoad(FAST, 50);
+        completeUnderLoad(SLOW, 1_000);
+
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void toleranceAtOrBelowOneFailsAtStartup() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(2, 100, 10, 1.0, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("latency-tolerance");
+    }
+
+    @Test
+    void negativeLatencyFloorFailsAtStartup() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(2, 100, 10, 2.0, -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("latency-floor-ms");
+    }
+
+    private void fillToLimit() {
+        while (limiter.tryAcquire()) {
+            // take every available slot
+        }
+    }
+
+    // Completes requests one at a time, refilling the freed slot each time so the limiter stays saturated
+    private void completeUnderLoad(long latencyNanos, int count) {
+        for (int i = 0; i < count; i++) {
+            now.addAndGet(latencyNanos);
+            limiter.recordDatabaseLatency(latencyNanos);
+            limiter.release();
+            fillToLimit();
+        }
+    }
+}
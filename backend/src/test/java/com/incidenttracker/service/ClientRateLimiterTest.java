@@ -0,0 +1,75 @@
+package com.incidenttracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClientRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private final ClientRateLimiter limiter = new ClientRateLimiter(10, 5, now::get);
+
+    @Test
+    void admitsUpToCapacityThenRefuses() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("client", 2)).isZero();
+        }
+
+        // 2 tokens at 5 tokens/s
+        assertThat(limiter.tryAcquire("client", 2)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(400));
+    }
+
+    @Test
+    void refillsOverTime() {
+        assertThat(limiter.tryAcquire("client", 10)).isZero();
+        assertThat(limiter.tryAcquire("client", 2)).isPositive();
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(400));
+
+        assertThat(limiter.tryAcquire("client", 2)).isZero();
+        assertThat(limiter.tryAcquire("client", 1)).isPositive();
+    }
+
+    @Test
+    void refillIsCappedAtCapacity() {
+        now.addAndGet(TimeUnit.HOURS.toNanos(1));
+
+        assertThat(limiter.tryAcquire("client", 10)).isZero();
+        assertThat(limiter.tryAcquire("client", 1)).isPositive();
+    }
+
+    @Test
+    void clientsHaveSeparateBuckets() {
+        assertThat(limiter.tryAcquire("first", 10)).isZero();
+
+        assertThat(limiter.tryAcquire("second", 10)).isZero();
+    }
+
+    @Test
+    void refundRestoresTokens() {
+        assertThat(limiter.tryAcquire("client", 10)).isZero();
+
+        limiter.refund("client", 4);
+
+        assertThat(limiter.tryAcquire("client", 4)).isZero();
+        assertThat(limiter.tryAcquire("client", 1)).isPositive();
+    }
+
+    @Test
+    void costAboveCapacityIsRejected() {
+        assertThatThrownBy(() -> limiter.tryAcquire("client", 11))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void retryAfterRoundsUpToWholeSeconds() {
+        assertThat(ClientRateLimiter.retryAfterSeconds(1)).isEqualTo(1);
+        assertThat(ClientRateLimiter.retryAfterSeconds(TimeUnit.SECONDS.toNanos(1))).isEqualTo(1);
+        assertThat(ClientRateLimiter.retryAfterSeconds(TimeUnit.SECONDS.toNanos(1) + 1)).isEqualTo(2);
+        assertThat(ClientRateLimiter.retryAfterSeconds(TimeUnit.MILLISECONDS.toNanos(2_500))).isEqualTo(3);
+    }
+}
@@ -0,0 +1,109 @@
+package com.incidenttracker.service;
+
+import com.incidenttracker.dto.IncidentResponse;
+import com.incidenttracker.entity.Incident;
+import com.incidenttracker.repository.IncidentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class IncidentServiceTest {
+
+    private final IncidentRepository incidentRepository = mock(IncidentRepository.class);
+    private final ActiveIncidentIndex activeIncidentIndex = mock(ActiveIncidentIndex.class);
+    private final IncidentService incidentService = new IncidentService(incidentRepository, activeIncidentIndex);
+
+    private final Page<IncidentResponse> cachedPage = new PageImpl<>(List.of(new IncidentResponse()));
+
+    @BeforeEach
+    void setUp() {
+        when(activeIncidentIndex.find(any(), any(), any(), anyBoolean(), any(Pageable.class))).thenReturn(cachedPage);
+        when(incidentRepository.findWithFilters(any(), any(), any(), any(), any(), any(Pageable.class)))
+                .thenReturn(Page.empty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ACTIVE", "active", "OPEN", "MITIGATED"})
+    void activeListViewIsServedWithoutDatabaseCalls(String status) {
+        Page<IncidentResponse> result = incidentService.getIncidents(
+                "", "Auth", "SEV1", status, 0, 10, "createdAt", "desc"
+        );
+
+        assertThat(result).isSameAs(cachedPage);
+        verifyNoInteractions(incidentRepository);
+    }
+
+    @Test
+    void activeFilterPassesNoSingleStatusToTheIndex() {
+        incidentService.getIncidents("", "Auth", "SEV1", "ACTIVE", 0, 10, "createdAt", "asc");
+
+        verify(activeIncidentIndex).find(eq("Auth"), eq(Incident.Severity.SEV1), isNull(), eq(true), any(Pageable.class));
+    }
+
+    @Test
+    void searchFallsBackToRepository() {
+        incidentService.getIncidents("timeout", "", "", "ACTIVE", 0, 10, "createdAt", "desc");
+
+        verifyNoInteractions(activeIncidentIndex);
+        verify(incidentRepository).findWithFilters(
+                eq("timeout"), eq(""), isNull(), isNull(), eq(Incident.Status.RESOLVED), any(Pageable.class)
+        );
+    }
+
+    @Test
+    void otherSortFieldFallsBackToRepository() {
+        incidentService.getIncidents("", "", "", "ACTIVE", 0, 10, "title", "asc");
+
+        verifyNoInteractions(activeIncidentIndex);
+        verify(incidentRepository).findWithFilters(
+                eq(""), eq(""), isNull(), isNull(), eq(Incident.Status.RESOLVED), any(Pageable.class)
+        );
+    }
+
+    @Test
+    void indexNotReadyFallsBackToRepository() {
+        when(activeIncidentIndex.find(any(), any(), any(), anyBoolean(), any(Pageable.class))).thenReturn(null);
+
+        incidentService.getIncidents("", "", "", "ACTIVE", 0, 10, "createdAt", "desc");
+
+        verify(incidentRepository).findWithFilters(
+                eq(""), eq(""), isNull(), isNull(), eq(Incident.Status.RESOLVED), any(Pageable.class)
+        );
+    }
+
+    @Test
+    void allStatusesAppliesNoStatusFilter() {
+        incidentService.getIncidents("", "", "", "ALL", 0, 10, "createdAt", "desc");
+
+        verifyNoInteractions(activeIncidentIndex);
+        verify(incidentRepository).findWithFilters(
+                eq(""), eq(""), isNull(), isNull(), isNull(), any(Pageable.class)
+        );
+    }
+
+    @Test
+    void resolvedStatusGoesToRepository() {
+        incidentService.getIncidents("", "", "", "RESOLVED", 0, 10, "createdAt", "desc");
+
+        verifyNoInteractions(activeIncidentIndex);
+        verify(incidentRepository).findWithFilters(
+                eq(""), eq(""), isNull(), eq(Incident.Status.RESOLVED), isNull(), any(Pageable.class)
+        );
+    }
+}
@@ -7,6 +7,9 @@ import Pagination from '../components/Pagination';
 import CreateIncidentModal from '../components/CreateIncidentModal';
 import { useDebounce } from '../hooks/useDebounce';
 
+// Default status filter: unresolved (OPEN or MITIGATED) incidents
+const DEFAULT_STATUS = 'ACTIVE';
+
 const SERVICES = ['Auth', 'Payments', 'Backend', 'Frontend', 'Database', 'API Gateway', 'Notifications', 'Search', 'Analytics', 'CDN'];
 
 const IncidentList: React.FC = () => {
@@ -18,7 +21,7 @@ const IncidentList: React.FC = () => {
     search: searchParams.get('search') || '',
     service: searchParams.get('service') || '',
     severity: searchParams.get('severity') || '',
-    status: searchParams.get('status') || '',
+    status: searchParams.get('status') || DEFAULT_STATUS,
     page: parseInt(searchParams.get('page') || '0', 10),
     size: parseInt(searchParams.get('size') || '10', 10),
     sortBy: searchParams.get('sortBy') || 'createdAt',
@@ -46,7 +49,7 @@ const IncidentList: React.FC = () => {
     if (filters.search) params.search = filters.search;
     if (filters.service) params.service = filters.service;
     if (filters.severity) params.severity = filters.severity;
-    if (filters.status) params.status = filters.status;
+    if (filters.status !== DEFAULT_STATUS) params.status = filters.status;
     if (filters.page > 0) params.page = String(filters.page);
     if (filters.size !== 10) params.size = String(filters.size);
     if (filters.sortBy !== 'createdAt') params.sortBy = filters.sortBy;
@@ -183,7 +186,8 @@ const IncidentList: React.FC = () => {
               value={filters.status}
               onChange={(e) => handleFilterChange('status', e.target.value)}
             >
-              <option value="">All Statuses</option>
+              <option value="ACTIVE">Unresolved</option>
+              <option value="ALL">All Statuses</option>
               <option value="OPEN">Open</option>
               <option value="MITIGATED">Mitigated</option>
               <option value="RESOLVED">Resolved</option>
@@ -209,7 +213,7 @@ const IncidentList: React.FC = () => {
                   search: '',
                   service: '',
                   severity: '',
-                  status: '',
+                  status: DEFAULT_STATUS,
                   page: 0,
                   size: 10,
                   sortBy: 'createdAt',